@@ -14,6 +14,7 @@ import androidx.core.view.WindowCompat;
 import androidx.core.view.WindowInsetsCompat;
 import androidx.core.view.WindowInsetsControllerCompat;
 import com.getcapacitor.BridgeActivity;
+import com.ultimatephysique.fitness2025.chart.NativeChartPlugin;
 
 public class MainActivity extends BridgeActivity {
     private static final String TAG = "MainActivity";
@@ -28,6 +29,8 @@ public class MainActivity extends BridgeActivity {
     
     @Override
     public void onCreate(Bundle savedInstanceState) {
+        // ✅ 本地插件必須在 super.onCreate() 之前註冊
+        registerPlugin(NativeChartPlugin.class);
         super.onCreate(savedInstanceState);
         
         // 🔴 關鍵修正：強制設為 true (代表「適應系統視窗」，即畫框模式)
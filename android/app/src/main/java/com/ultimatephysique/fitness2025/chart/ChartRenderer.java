@@ -0,0 +1,35 @@
+package com.ultimatephysique.fitness2025.chart;
+
+import android.graphics.Canvas;
+import com.getcapacitor.JSObject;
+
+/**
+ * 原生圖表繪製器
+ * 實作必須在建構後不再修改資料：draw() 在渲染執行緒呼叫，hitTest() / describe() 在主執行緒呼叫。
+ */
+interface ChartRenderer {
+
+    int NO_POINT = -1;
+
+    /**
+     * 在渲染執行緒上繪製一幀，highlight 為目前被按住的點（NO_POINT 表示沒有）
+     */
+    void draw(Canvas canvas, int width, int height, int highlight);
+
+    /**
+     * 回傳觸控位置對應的原始資料索引，沒有命中時回傳 NO_POINT
+     */
+    int hitTest(float x, float y, int width, int height);
+
+    /**
+     * 回傳給 JS 的點資訊（tap / hover 事件內容）
+     */
+    JSObject describe(int index);
+
+    int getInputPointCount();
+
+    /**
+     * 最近一次繪製實際畫出的點數（降採樣後）
+     */
+    int getRenderedPointCount();
+}
@@ -0,0 +1,160 @@
+package com.ultimatephysique.fitness2025.chart;
+
+/**
+ * 時間序列降採樣工具
+ * 先以 min/max 分桶保留極值，再用 LTTB (Largest-Triangle-Three-Buckets) 取出最終點位，
+ * 讓 10k 筆歷史資料也只需要繪製與螢幕寬度相當的點數。
+ *
+ * 所有方法回傳的都是原始資料的索引（遞增排序），方便點擊時回查原始數值。
+ */
+final class Downsampler {
+
+    /** 資料量超過 threshold 的幾倍時，才先做 min/max 預篩選 */
+    static final int MIN_MAX_RATIO = 4;
+
+    private Downsampler() {
+    }
+
+    /**
+     * 將 values 降採樣到最多 threshold 個點（x 軸為索引，等距分佈）
+     */
+    static int[] downsample(float[] values, int threshold) {
+        int n = values.length;
+        if (threshold < 3 || n <= threshold) {
+            return identity(n);
+        }
+
+        int[] candidates;
+        if (n > threshold * MIN_MAX_RATIO) {
+            // 每個桶最多貢獻 min 和 max 兩個點
+            candidates = minMax(values, threshold * MIN_MAX_RATIO / 2);
+        } else {
+            candidates = identity(n);
+        }
+        return lttb(values, candidates, threshold);
+    }
+
+    /**
+     * min/max 分桶：保留首尾兩點，中間區段切成 buckets 個桶，每桶保留最小值與最大值
+     */
+    static int[] minMax(float[] values, int buckets) {
+        int n = values.length;
+        if (buckets <= 0 || n <= buckets * 2 + 2) {
+            return identity(n);
+        }
+
+        int[] out = new int[buckets * 2 + 2];
+        int count = 0;
+        out[count++] = 0;
+
+        int interior = n - 2;
+        for (int b = 0; b < buckets; b++) {
+            int start = 1 + (int) ((long) b * interior / buckets);
+            int end = 1 + (int) ((long) (b + 1) * interior / buckets);
+            if (start >= end) {
+                continue;
+            }
+
+            int minIndex = start;
+            int maxIndex = start;
+            for (int i = start + 1; i < end; i++) {
+                if (values[i] < values[minIndex]) {
+                    minIndex = i;
+                }
+                if (values[i] > values[maxIndex]) {
+                    maxIndex = i;
+                }
+            }
+
+            // 維持索引遞增，避免折線來回跳動
+            if (minIndex == maxIndex) {
+                out[count++] = minIndex;
+            } else if (minIndex < maxIndex) {
+                out[count++] = minIndex;
+                out[count++] = maxIndex;
+            } else {
+                out[count++] = maxIndex;
+                out[count++] = minIndex;
+            }
+        }
+
+        out[count++] = n - 1;
+        return trim(out, count);
+    }
+
+    /**
+     * LTTB：在 candidates 指定的點中選出 threshold 個，最大化相鄰三角形面積以保留視覺形狀
+     */
+    static int[] lttb(float[] values, int[] candidates, int threshold) {
+        int m = candidates.length;
+        if (threshold < 3 || m <= threshold) {
+            return candidates;
+        }
+
+        int[] out = new int[threshold];
+        int count = 0;
+        double every = (double) (m - 2) / (threshold - 2);
+        int a = 0;
+        out[count++] = candidates[0];
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // 下一個桶的平均點
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1, m);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += candidates[j];
+                avgY += values[candidates[j]];
+            }
+            int avgLength = avgEnd - avgStart;
+            if (avgLength > 0) {
+                avgX /= avgLength;
+                avgY /= avgLength;
+            } else {
+                avgX = candidates[m - 1];
+                avgY = values[candidates[m - 1]];
+            }
+
+            // 目前桶內找出與前一個選中點、下一桶平均點構成最大三角形的點
+            int rangeStart = (int) Math.floor(i * every) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+            double pointAX = candidates[a];
+            double pointAY = values[candidates[a]];
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs(
+                    (pointAX - avgX) * (values[candidates[j]] - pointAY)
+                        - (pointAX - candidates[j]) * (avgY - pointAY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+
+            out[count++] = candidates[next];
+            a = next;
+        }
+
+        out[count++] = candidates[m - 1];
+        return trim(out, count);
+    }
+
+    private static int[] identity(int n) {
+        int[] out = new int[n];
+        for (int i = 0; i < n; i++) {
+            out[i] = i;
+        }
+        return out;
+    }
+
+    private static int[] trim(int[] source, int count) {
+        if (count == source.length) {
+            return source;
+        }
+        int[] out = new int[count];
+        System.arraycopy(source, 0, out, 0, count);
+        return out;
+    }
+}
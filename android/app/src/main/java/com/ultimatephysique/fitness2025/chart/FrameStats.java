@@ -0,0 +1,63 @@
+package com.ultimatephysique.fitness2025.chart;
+
+import java.util.Arrays;
+
+/**
+ * 最近 N 幀的繪製耗時統計，用於與 WebView 版本（Recharts / SVG）比較
+ * record() 在渲染執行緒呼叫，snapshot 方法可在任意執行緒呼叫。
+ */
+final class FrameStats {
+
+    static final int CAPACITY = 120;
+
+    private final long[] frameNanos = new long[CAPACITY];
+    private int count;
+    private int next;
+    private long totalFrames;
+
+    synchronized void record(long nanos) {
+        frameNanos[next] = nanos;
+        next = (next + 1) % CAPACITY;
+        count = Math.min(count + 1, CAPACITY);
+        totalFrames++;
+    }
+
+    synchronized void reset() {
+        count = 0;
+        next = 0;
+        totalFrames = 0;
+    }
+
+    synchronized long getTotalFrames() {
+        return totalFrames;
+    }
+
+    synchronized double getAverageMs() {
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += frameNanos[i];
+        }
+        return sum / (double) count / 1_000_000d;
+    }
+
+    synchronized double getPercentileMs(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(frameNanos, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))] / 1_000_000d;
+    }
+
+    synchronized double getMaxMs() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, frameNanos[i]);
+        }
+        return max / 1_000_000d;
+    }
+}
@@ -0,0 +1,243 @@
+package com.ultimatephysique.fitness2025.chart;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+import com.getcapacitor.JSObject;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * 歷史紀錄折線圖繪製器
+ * 版面對應 HistoryChart.jsx 的 SVG 版本：0~100 的水平網格、等距排列的紀錄點、底部日期標籤。
+ * 資料量大時依繪圖寬度降採樣（min/max + LTTB），每兩個像素最多畫一個點。
+ */
+final class HistoryRenderer implements ChartRenderer {
+
+    private static final int GRID_COLOR = Color.rgb(222, 226, 230);
+    private static final int AXIS_TEXT_COLOR = Color.rgb(73, 80, 87);
+    private static final int GRID_LINES = 5;
+    private static final int MAX_X_LABELS = 6;
+    private static final int MAX_DOT_POINTS = 60;
+    private static final float PIXELS_PER_POINT = 2f;
+
+    private final String[] labels;
+    private final float[] values;
+    private final int color;
+    private final float domainMax;
+    private final float density;
+
+    // 以下欄位只在渲染執行緒使用
+    private final Paint gridPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint linePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint dotPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Path path = new Path();
+    private int[] plotted;
+    private int plottedThreshold = -1;
+
+    private volatile int renderedPointCount;
+
+    private HistoryRenderer(String[] labels, float[] values, int color, float domainMax, float density) {
+        this.labels = labels;
+        this.values = values;
+        this.color = color;
+        this.domainMax = domainMax;
+        this.density = density;
+
+        gridPaint.setStyle(Paint.Style.STROKE);
+        gridPaint.setColor(GRID_COLOR);
+        gridPaint.setStrokeWidth(density);
+
+        textPaint.setColor(AXIS_TEXT_COLOR);
+        textPaint.setTextSize(11 * density);
+        textPaint.setFakeBoldText(true);
+
+        linePaint.setStyle(Paint.Style.STROKE);
+        linePaint.setColor(color);
+        linePaint.setStrokeWidth(2 * density);
+        linePaint.setStrokeCap(Paint.Cap.ROUND);
+        linePaint.setStrokeJoin(Paint.Join.ROUND);
+    }
+
+    /**
+     * data 格式：{ labels: string[], values: (number|string)[], color?: '#rrggbb', yMax?: number }
+     */
+    static HistoryRenderer fromJson(JSONObject data, float density) throws JSONException {
+        JSONArray rawValues = data.getJSONArray("values");
+        JSONArray rawLabels = data.optJSONArray("labels");
+
+        int n = rawValues.length();
+        float[] values = new float[n];
+        String[] labels = new String[n];
+        float max = 0f;
+        for (int i = 0; i < n; i++) {
+            // useHistoryLogic 以 toFixed() 產生字串，optDouble 會一併解析
+            float value = (float) rawValues.optDouble(i, 0);
+            values[i] = Float.isNaN(value) ? 0f : value;
+            labels[i] = rawLabels != null ? rawLabels.optString(i, "") : "";
+            max = Math.max(max, values[i]);
+        }
+
+        int color;
+        try {
+            color = Color.parseColor(data.optString("color", "#28a745"));
+        } catch (IllegalArgumentException e) {
+            color = Color.rgb(40, 167, 69);
+        }
+
+        float domainMax = (float) data.optDouble("yMax", Math.max(100f, max));
+        if (!(domainMax > 0)) {
+            domainMax = 100f;
+        }
+        return new HistoryRenderer(labels, values, color, domainMax, density);
+    }
+
+    @Override
+    public void draw(Canvas canvas, int width, int height, int highlight) {
+        float left = left();
+        float right = width - right();
+        float top = top();
+        float bottom = height - bottom();
+
+        // 水平網格與 y 軸刻度
+        textPaint.setTextAlign(Paint.Align.RIGHT);
+        for (int i = 0; i <= GRID_LINES; i++) {
+            float y = bottom - (bottom - top) * i / GRID_LINES;
+            canvas.drawLine(left, y, right, y, gridPaint);
+            String tick = String.valueOf(Math.round(domainMax * i / GRID_LINES));
+            canvas.drawText(tick, left - 6 * density, y + 4 * density, textPaint);
+        }
+
+        int n = values.length;
+        if (n == 0) {
+            renderedPointCount = 0;
+            return;
+        }
+
+        int[] indices = plottedIndices(right - left);
+        renderedPointCount = indices.length;
+
+        path.rewind();
+        for (int i = 0; i < indices.length; i++) {
+            float x = xFor(indices[i], left, right);
+            float y = yFor(values[indices[i]], top, bottom);
+            if (i == 0) {
+                path.moveTo(x, y);
+            } else {
+                path.lineTo(x, y);
+            }
+        }
+        canvas.drawPath(path, linePaint);
+
+        // 點數少時才畫圓點，避免大量繪製呼叫
+        if (indices.length <= MAX_DOT_POINTS) {
+            for (int index : indices) {
+                drawDot(canvas, xFor(index, left, right), yFor(values[index], top, bottom), 4 * density);
+            }
+        }
+
+        // x 軸日期標籤（最多 MAX_X_LABELS 個）
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        int labelCount = Math.min(MAX_X_LABELS, n);
+        for (int i = 0; i < labelCount; i++) {
+            int index = labelCount == 1 ? 0 : (int) ((long) i * (n - 1) / (labelCount - 1));
+            canvas.drawText(labels[index], xFor(index, left, right), height - 8 * density, textPaint);
+        }
+
+        if (highlight >= 0 && highlight < n) {
+            float x = xFor(highlight, left, right);
+            float y = yFor(values[highlight], top, bottom);
+            canvas.drawLine(x, top, x, bottom, gridPaint);
+            drawDot(canvas, x, y, 6 * density);
+        }
+    }
+
+    private void drawDot(Canvas canvas, float x, float y, float radius) {
+        dotPaint.setStyle(Paint.Style.FILL);
+        dotPaint.setColor(color);
+        canvas.drawCircle(x, y, radius, dotPaint);
+        dotPaint.setStyle(Paint.Style.STROKE);
+        dotPaint.setColor(Color.WHITE);
+        dotPaint.setStrokeWidth(2 * density);
+        canvas.drawCircle(x, y, radius, dotPaint);
+    }
+
+    private int[] plottedIndices(float plotWidth) {
+        int threshold = Math.max(3, (int) (plotWidth / PIXELS_PER_POINT));
+        if (plotted == null || threshold != plottedThreshold) {
+            plotted = Downsampler.downsample(values, threshold);
+            plottedThreshold = threshold;
+        }
+        return plotted;
+    }
+
+    @Override
+    public int hitTest(float x, float y, int width, int height) {
+        int n = values.length;
+        if (n == 0) {
+            return NO_POINT;
+        }
+        float left = left();
+        float right = width - right();
+        if (x < left - 16 * density || x > right + 16 * density) {
+            return NO_POINT;
+        }
+        if (n == 1) {
+            return 0;
+        }
+        // 點為等距排列，直接換算回最近的原始索引
+        float ratio = (x - left) / (right - left);
+        int index = Math.round(ratio * (n - 1));
+        return Math.max(0, Math.min(n - 1, index));
+    }
+
+    @Override
+    public JSObject describe(int index) {
+        JSObject point = new JSObject();
+        point.put("index", index);
+        point.put("label", labels[index]);
+        point.put("value", values[index]);
+        return point;
+    }
+
+    @Override
+    public int getInputPointCount() {
+        return values.length;
+    }
+
+    @Override
+    public int getRenderedPointCount() {
+        return renderedPointCount;
+    }
+
+    private float xFor(int index, float left, float right) {
+        int n = values.length;
+        if (n <= 1) {
+            return (left + right) / 2f;
+        }
+        return left + (right - left) * index / (n - 1);
+    }
+
+    private float yFor(float value, float top, float bottom) {
+        return bottom - (bottom - top) * Math.min(value, domainMax) / domainMax;
+    }
+
+    private float left() {
+        return 36 * density;
+    }
+
+    private float right() {
+        return 16 * density;
+    }
+
+    private float top() {
+        return 12 * density;
+    }
+
+    private float bottom() {
+        return 28 * density;
+    }
+}
@@ -0,0 +1,314 @@
+package com.ultimatephysique.fitness2025.chart;
+
+import android.graphics.Rect;
+import android.os.Debug;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewGroup;
+import android.webkit.WebView;
+import com.getcapacitor.JSObject;
+import com.getcapacitor.Plugin;
+import com.getcapacitor.PluginCall;
+import com.getcapacitor.PluginMethod;
+import com.getcapacitor.WebViewListener;
+import com.getcapacitor.annotation.CapacitorPlugin;
+import java.util.HashMap;
+import java.util.Map;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * 原生圖表插件
+ * 在 WebView 上方放置 TextureView，於頁面預留的 DOM 矩形內繪製雷達圖 / 歷史折線圖，
+ * 取代 WebView 內的 Recharts / SVG 繪製。只有 tap / hover 事件會回傳給 JS（chartEvent）。
+ *
+ * JS 端傳入的矩形為 CSS 像素（getBoundingClientRect），此處換算為實體像素。
+ * clip 為 rect 中未被固定 UI（HUD、底部導覽列、固定廣告）遮住的部分，以 setClipBounds 裁切，
+ * 避免原生 View 畫在這些元素上方。
+ *
+ * WebView 整頁載入（location.href、reload、live reload）不會執行 React 的清理，
+ * 因此在 onPageStarted 移除所有圖表。
+ */
+@CapacitorPlugin(name = "NativeChart")
+public class NativeChartPlugin extends Plugin {
+    private static final String TAG = "NativeChartPlugin";
+    private static final String EVENT_CHART = "chartEvent";
+
+    // 只在主執行緒存取
+    private final Map<String, NativeChartView> charts = new HashMap<>();
+    private HandlerThread renderThread;
+    private Handler renderHandler;
+
+    @Override
+    public void load() {
+        renderThread = new HandlerThread("NativeChartRender");
+        renderThread.start();
+        renderHandler = new Handler(renderThread.getLooper());
+
+        getBridge().addWebViewListener(new WebViewListener() {
+            @Override
+            public void onPageStarted(WebView webView) {
+                if (!charts.isEmpty()) {
+                    Log.d(TAG, "Page reloading, removing " + charts.size() + " charts");
+                    removeAllCharts();
+                }
+            }
+        });
+    }
+
+    @PluginMethod
+    public void create(PluginCall call) {
+        String id = call.getString("id");
+        String type = call.getString("type");
+        JSObject data = call.getObject("data");
+        JSObject rect = call.getObject("rect");
+        if (id == null || type == null || data == null || rect == null) {
+            call.reject("id, type, data and rect are required");
+            return;
+        }
+
+        ChartRenderer renderer;
+        try {
+            renderer = buildRenderer(type, data);
+        } catch (JSONException | IllegalArgumentException e) {
+            call.reject("Invalid chart data: " + e.getMessage(), e);
+            return;
+        }
+
+        getBridge().executeOnMainThread(() -> {
+            WebView webView = getBridge().getWebView();
+            if (webView == null || !(webView.getParent() instanceof ViewGroup)) {
+                call.reject("WebView is not attached");
+                return;
+            }
+
+            NativeChartView existing = charts.remove(id);
+            if (existing != null) {
+                removeView(existing);
+            }
+
+            NativeChartView view = new NativeChartView(getContext(), renderHandler, webView, renderer,
+                (event, index) -> notifyChartEvent(id, event, index));
+            ViewGroup parent = (ViewGroup) webView.getParent();
+            parent.addView(view, new ViewGroup.LayoutParams(0, 0));
+            charts.put(id, view);
+            applyBounds(view, webView, rect, call.getObject("clip"), call.getBoolean("visible", true));
+            Log.d(TAG, "Chart created: " + id + " (" + type + ", " + renderer.getInputPointCount() + " points)");
+            call.resolve();
+        });
+    }
+
+    @PluginMethod
+    public void update(PluginCall call) {
+        String id = call.getString("id");
+        String type = call.getString("type");
+        JSObject data = call.getObject("data");
+        if (id == null || type == null || data == null) {
+            call.reject("id, type and data are required");
+            return;
+        }
+
+        ChartRenderer renderer;
+        try {
+            renderer = buildRenderer(type, data);
+        } catch (JSONException | IllegalArgumentException e) {
+            call.reject("Invalid chart data: " + e.getMessage(), e);
+            return;
+        }
+
+        getBridge().executeOnMainThread(() -> {
+            NativeChartView view = charts.get(id);
+            if (view == null) {
+                call.reject("Chart not found: " + id);
+                return;
+            }
+            view.setRenderer(renderer);
+            call.resolve();
+        });
+    }
+
+    @PluginMethod
+    public void setBounds(PluginCall call) {
+        String id = call.getString("id");
+        JSObject rect = call.getObject("rect");
+        if (id == null || rect == null) {
+            call.reject("id and rect are required");
+            return;
+        }
+
+        JSObject clip = call.getObject("clip");
+        boolean visible = call.getBoolean("visible", true);
+        getBridge().executeOnMainThread(() -> {
+            NativeChartView view = charts.get(id);
+            WebView webView = getBridge().getWebView();
+            if (view == null || webView == null) {
+                call.reject("Chart not found: " + id);
+                return;
+            }
+            applyBounds(view, webView, rect, clip, visible);
+            call.resolve();
+        });
+    }
+
+    @PluginMethod
+    public void destroy(PluginCall call) {
+        String id = call.getString("id");
+        if (id == null) {
+            call.reject("id is required");
+            return;
+        }
+
+        getBridge().executeOnMainThread(() -> {
+            NativeChartView view = charts.remove(id);
+            if (view != null) {
+                removeView(view);
+            }
+            call.resolve();
+        });
+    }
+
+    /**
+     * 效能基準用：回傳最近幀的繪製耗時、點數與記憶體用量
+     */
+    @PluginMethod
+    public void getStats(PluginCall call) {
+        String id = call.getString("id");
+        boolean reset = call.getBoolean("reset", false);
+        getBridge().executeOnMainThread(() -> {
+            NativeChartView view = id != null ? charts.get(id) : null;
+            if (view == null) {
+                call.reject("Chart not found: " + id);
+                return;
+            }
+            JSObject result = buildStats(view);
+            if (reset) {
+                view.getFrameStats().reset();
+            }
+            call.resolve(result);
+        });
+    }
+
+    /**
+     * 效能基準用：對既有圖表連續重繪 frames 幀後回傳統計（不重建 renderer，不經過 bridge）
+     */
+    @PluginMethod
+    public void measureFrames(PluginCall call) {
+        String id = call.getString("id");
+        int frames = Math.max(1, Math.min(call.getInt("frames", 60), FrameStats.CAPACITY));
+        getBridge().executeOnMainThread(() -> {
+            NativeChartView view = id != null ? charts.get(id) : null;
+            if (view == null) {
+                call.reject("Chart not found: " + id);
+                return;
+            }
+            view.measureFrames(frames,
+                () -> getBridge().executeOnMainThread(() -> call.resolve(buildStats(view))));
+        });
+    }
+
+    @Override
+    protected void handleOnDestroy() {
+        getBridge().executeOnMainThread(() -> {
+            removeAllCharts();
+            if (renderThread != null) {
+                // 讓已排入的 Surface 釋放工作先執行完
+                renderThread.quitSafely();
+                renderThread = null;
+            }
+        });
+    }
+
+    private ChartRenderer buildRenderer(String type, JSONObject data) throws JSONException {
+        float density = getContext().getResources().getDisplayMetrics().density;
+        switch (type) {
+            case "radar":
+                return RadarRenderer.fromJson(data, density);
+            case "history":
+                return HistoryRenderer.fromJson(data, density);
+            default:
+                throw new IllegalArgumentException("Unknown chart type: " + type);
+        }
+    }
+
+    private void applyBounds(NativeChartView view, WebView webView, JSONObject rect, JSONObject clip,
+                             boolean visible) {
+        float density = getContext().getResources().getDisplayMetrics().density;
+        float left = (float) rect.optDouble("x", 0) * density;
+        float top = (float) rect.optDouble("y", 0) * density;
+        int width = Math.round((float) rect.optDouble("width", 0) * density);
+        int height = Math.round((float) rect.optDouble("height", 0) * density);
+
+        ViewGroup.LayoutParams params = view.getLayoutParams();
+        if (params.width != width || params.height != height) {
+            params.width = width;
+            params.height = height;
+            view.setLayoutParams(params);
+        }
+        view.setX(webView.getX() + left);
+        view.setY(webView.getY() + top);
+
+        // clip 換算為 View 內部座標；沒有 clip 時不裁切
+        Rect clipBounds = null;
+        if (clip != null) {
+            clipBounds = new Rect(
+                Math.round((float) clip.optDouble("x", 0) * density - left),
+                Math.round((float) clip.optDouble("y", 0) * density - top),
+                Math.round((float) (clip.optDouble("x", 0) + clip.optDouble("width", 0)) * density - left),
+                Math.round((float) (clip.optDouble("y", 0) + clip.optDouble("height", 0)) * density - top));
+            if (!clipBounds.intersect(0, 0, width, height)) {
+                clipBounds.setEmpty();
+            }
+        }
+        view.setClipBounds(clipBounds);
+
+        boolean hasArea = width > 0 && height > 0 && (clipBounds == null || !clipBounds.isEmpty());
+        view.setVisibility(visible && hasArea ? View.VISIBLE : View.INVISIBLE);
+    }
+
+    private JSObject buildStats(NativeChartView view) {
+        FrameStats stats = view.getFrameStats();
+        ChartRenderer renderer = view.getRenderer();
+        Runtime runtime = Runtime.getRuntime();
+
+        JSObject result = new JSObject();
+        result.put("frames", stats.getTotalFrames());
+        result.put("avgFrameMs", stats.getAverageMs());
+        result.put("p95FrameMs", stats.getPercentileMs(0.95));
+        result.put("maxFrameMs", stats.getMaxMs());
+        result.put("inputPoints", renderer != null ? renderer.getInputPointCount() : 0);
+        result.put("renderedPoints", renderer != null ? renderer.getRenderedPointCount() : 0);
+        result.put("javaHeapUsedKb", (runtime.totalMemory() - runtime.freeMemory()) / 1024);
+        result.put("nativeHeapUsedKb", Debug.getNativeHeapAllocatedSize() / 1024);
+        return result;
+    }
+
+    private void removeAllCharts() {
+        for (NativeChartView view : charts.values()) {
+            removeView(view);
+        }
+        charts.clear();
+    }
+
+    private void removeView(NativeChartView view) {
+        if (view.getParent() instanceof ViewGroup) {
+            ((ViewGroup) view.getParent()).removeView(view);
+        }
+    }
+
+    private void notifyChartEvent(String id, String event, int index) {
+        NativeChartView view = charts.get(id);
+        ChartRenderer renderer = view != null ? view.getRenderer() : null;
+
+        JSObject payload = new JSObject();
+        payload.put("id", id);
+        payload.put("type", event);
+        if (renderer != null && index != ChartRenderer.NO_POINT) {
+            payload.put("point", renderer.describe(index));
+        } else {
+            payload.put("point", JSONObject.NULL);
+        }
+        notifyListeners(EVENT_CHART, payload);
+    }
+}
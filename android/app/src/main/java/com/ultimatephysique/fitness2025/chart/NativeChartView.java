@@ -0,0 +1,264 @@
+package com.ultimatephysique.fitness2025.chart;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.SurfaceTexture;
+import android.os.Handler;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.MotionEvent;
+import android.view.Surface;
+import android.view.TextureView;
+import android.view.View;
+import android.view.ViewConfiguration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 疊在 WebView 上方的原生圖表
+ * 所有 Canvas 繪製都在渲染執行緒進行，主執行緒只負責觸控與版面。
+ * 觸控事件會轉送回 WebView，確保頁面仍可在圖表區域上捲動；
+ * 只有水平拖曳（超過 touchSlop 後才開始 hover）與點擊（tap）會回報給 JS，
+ * 垂直捲動不會產生 hover 事件。
+ * 被 clipBounds 裁掉的區域（固定 UI 下方）只轉送事件，不觸發圖表互動。
+ */
+@SuppressLint("ViewConstructor")
+final class NativeChartView extends TextureView implements TextureView.SurfaceTextureListener {
+
+    interface OnPointListener {
+        /**
+         * @param event "tap" 或 "hover"
+         * @param index 原始資料索引，hover 結束時為 ChartRenderer.NO_POINT
+         */
+        void onPoint(String event, int index);
+    }
+
+    private static final String TAG = "NativeChartView";
+
+    private final Handler renderHandler;
+    private final View passThroughTarget;
+    private final OnPointListener listener;
+    private final FrameStats frameStats = new FrameStats();
+    private final AtomicBoolean framePending = new AtomicBoolean(false);
+    private final int touchSlop;
+    private final Runnable renderRunnable = this::renderFrame;
+
+    private volatile ChartRenderer renderer;
+    private volatile int highlight = ChartRenderer.NO_POINT;
+
+    // 以下欄位只在渲染執行緒使用
+    private Surface surface;
+    private int surfaceWidth;
+    private int surfaceHeight;
+
+    // 以下欄位只在主執行緒使用
+    private float downX;
+    private float downY;
+    private boolean scrolling;
+    private boolean hovering;
+    private boolean ignoringGesture;
+
+    NativeChartView(Context context, Handler renderHandler, View passThroughTarget,
+                    ChartRenderer renderer, OnPointListener listener) {
+        super(context);
+        this.renderHandler = renderHandler;
+        this.passThroughTarget = passThroughTarget;
+        this.renderer = renderer;
+        this.listener = listener;
+        this.touchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+        setOpaque(false);
+        setSurfaceTextureListener(this);
+    }
+
+    void setRenderer(ChartRenderer renderer) {
+        this.renderer = renderer;
+        this.highlight = ChartRenderer.NO_POINT;
+        requestRender();
+    }
+
+    ChartRenderer getRenderer() {
+        return renderer;
+    }
+
+    FrameStats getFrameStats() {
+        return frameStats;
+    }
+
+    /**
+     * 效能基準用：在渲染執行緒連續繪製 count 幀（沿用降採樣快取，即穩定狀態的繪製耗時），
+     * 完成後在渲染執行緒呼叫 onDone
+     */
+    void measureFrames(int count, Runnable onDone) {
+        renderHandler.post(() -> {
+            frameStats.reset();
+            for (int i = 0; i < count; i++) {
+                renderFrame();
+            }
+            onDone.run();
+        });
+    }
+
+    /**
+     * 合併同一時間的多次請求，渲染執行緒上最多只排一幀
+     */
+    void requestRender() {
+        if (framePending.compareAndSet(false, true)) {
+            renderHandler.post(renderRunnable);
+        }
+    }
+
+    private void renderFrame() {
+        framePending.set(false);
+        ChartRenderer current = renderer;
+        if (surface == null || !surface.isValid() || current == null
+            || surfaceWidth <= 0 || surfaceHeight <= 0) {
+            return;
+        }
+
+        long start = SystemClock.elapsedRealtimeNanos();
+        Canvas canvas = null;
+        try {
+            canvas = surface.lockHardwareCanvas();
+            canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            current.draw(canvas, surfaceWidth, surfaceHeight, highlight);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            Log.e(TAG, "Error rendering chart frame", e);
+        } finally {
+            if (canvas != null) {
+                try {
+                    surface.unlockCanvasAndPost(canvas);
+                } catch (IllegalStateException e) {
+                    Log.e(TAG, "Error posting chart frame", e);
+                }
+            }
+        }
+        frameStats.record(SystemClock.elapsedRealtimeNanos() - start);
+    }
+
+    @Override
+    public void onSurfaceTextureAvailable(SurfaceTexture surfaceTexture, int width, int height) {
+        renderHandler.post(() -> {
+            surface = new Surface(surfaceTexture);
+            surfaceWidth = width;
+            surfaceHeight = height;
+        });
+        requestRender();
+    }
+
+    @Override
+    public void onSurfaceTextureSizeChanged(SurfaceTexture surfaceTexture, int width, int height) {
+        renderHandler.post(() -> {
+            surfaceWidth = width;
+            surfaceHeight = height;
+        });
+        requestRender();
+    }
+
+    @Override
+    public boolean onSurfaceTextureDestroyed(SurfaceTexture surfaceTexture) {
+        // ✅ 交給渲染執行緒釋放，確保不會在繪製途中釋放 Surface
+        renderHandler.post(() -> {
+            if (surface != null) {
+                surface.release();
+                surface = null;
+            }
+            surfaceTexture.release();
+        });
+        return false;
+    }
+
+    @Override
+    public void onSurfaceTextureUpdated(SurfaceTexture surfaceTexture) {
+    }
+
+    @SuppressLint("ClickableViewAccessibility")
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        float x = event.getX();
+        float y = event.getY();
+
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                downX = x;
+                downY = y;
+                scrolling = false;
+                hovering = false;
+                Rect clipBounds = getClipBounds();
+                ignoringGesture = clipBounds != null && !clipBounds.contains((int) x, (int) y);
+                break;
+            case MotionEvent.ACTION_MOVE:
+                if (ignoringGesture || scrolling) {
+                    break;
+                }
+                if (!hovering) {
+                    float dx = Math.abs(x - downX);
+                    float dy = Math.abs(y - downY);
+                    if (dy > touchSlop && dy > dx) {
+                        // 垂直拖曳視為頁面捲動，交給 WebView 處理
+                        scrolling = true;
+                        break;
+                    }
+                    if (dx <= touchSlop) {
+                        break;
+                    }
+                    hovering = true;
+                }
+                updateHover(x, y);
+                break;
+            case MotionEvent.ACTION_UP:
+                if (!scrolling && !hovering && !ignoringGesture) {
+                    ChartRenderer current = renderer;
+                    int hit = current != null
+                        ? current.hitTest(x, y, getWidth(), getHeight())
+                        : ChartRenderer.NO_POINT;
+                    if (hit != ChartRenderer.NO_POINT) {
+                        listener.onPoint("tap", hit);
+                    }
+                }
+                clearHover();
+                break;
+            case MotionEvent.ACTION_CANCEL:
+                clearHover();
+                break;
+            default:
+                break;
+        }
+
+        forwardToPassThroughTarget(event);
+        return true;
+    }
+
+    private void updateHover(float x, float y) {
+        ChartRenderer current = renderer;
+        if (current == null) {
+            return;
+        }
+        int hit = current.hitTest(x, y, getWidth(), getHeight());
+        if (hit != highlight) {
+            highlight = hit;
+            listener.onPoint("hover", hit);
+            requestRender();
+        }
+    }
+
+    private void clearHover() {
+        if (highlight != ChartRenderer.NO_POINT) {
+            highlight = ChartRenderer.NO_POINT;
+            listener.onPoint("hover", ChartRenderer.NO_POINT);
+            requestRender();
+        }
+    }
+
+    private void forwardToPassThroughTarget(MotionEvent event) {
+        if (passThroughTarget == null) {
+            return;
+        }
+        MotionEvent copy = MotionEvent.obtain(event);
+        copy.offsetLocation(getX() - passThroughTarget.getX(), getY() - passThroughTarget.getY());
+        passThroughTarget.dispatchTouchEvent(copy);
+        copy.recycle();
+    }
+}
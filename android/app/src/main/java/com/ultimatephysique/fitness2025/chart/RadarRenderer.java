@@ -0,0 +1,260 @@
+package com.ultimatephysique.fitness2025.chart;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.DashPathEffect;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Typeface;
+import com.getcapacitor.JSObject;
+import java.util.Locale;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * 五軸雷達圖繪製器
+ * 配色與 RadarChartSection.jsx 的 Recharts 版本一致（金色網格、藍色填色、Limit Break 琥珀色）
+ */
+final class RadarRenderer implements ChartRenderer {
+
+    private static final int GRID_COLOR = Color.argb(64, 255, 140, 0);
+    private static final int TICK_COLOR = Color.rgb(255, 140, 0);
+    private static final int STROKE_COLOR = Color.rgb(255, 140, 0);
+    private static final int FILL_COLOR = Color.rgb(0, 191, 255);
+    // Recharts 的 fill 本身 alpha 0.4，再乘上 fillOpacity 0.4 / 0.6
+    private static final int FILL_ALPHA = Math.round(255 * 0.4f * 0.4f);
+    private static final int LIMIT_BREAK_FILL_ALPHA = Math.round(255 * 0.4f * 0.6f);
+    private static final int LIMIT_BREAK_COLOR = Color.rgb(245, 158, 11);
+    private static final int LABEL_COLOR = Color.rgb(45, 55, 72);
+    private static final int BADGE_STROKE_COLOR = Color.argb(102, 129, 216, 208);
+    private static final int GRID_LEVELS = 4;
+    private static final float HIT_RADIUS_DP = 32f;
+
+    private final String[] labels;
+    private final String[] icons;
+    private final float[] values;
+    private final float domainMax;
+    private final boolean limitBreak;
+    private final float density;
+
+    // 以下 Paint / Path 只在渲染執行緒使用
+    private final Paint gridPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint tickPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint fillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint strokePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint badgePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Path path = new Path();
+
+    private RadarRenderer(String[] labels, String[] icons, float[] values, boolean limitBreak, float density) {
+        this.labels = labels;
+        this.icons = icons;
+        this.values = values;
+        this.limitBreak = limitBreak;
+        this.density = density;
+
+        float max = 100f;
+        for (float value : values) {
+            max = Math.max(max, value);
+        }
+        this.domainMax = max;
+
+        gridPaint.setStyle(Paint.Style.STROKE);
+        gridPaint.setColor(GRID_COLOR);
+        gridPaint.setStrokeWidth(2 * density);
+        gridPaint.setPathEffect(new DashPathEffect(new float[] {4 * density, 4 * density}, 0));
+
+        tickPaint.setColor(TICK_COLOR);
+        tickPaint.setTextSize(12 * density);
+        tickPaint.setTypeface(Typeface.create(Typeface.MONOSPACE, Typeface.BOLD));
+
+        fillPaint.setStyle(Paint.Style.FILL);
+        fillPaint.setColor(FILL_COLOR);
+
+        strokePaint.setStyle(Paint.Style.STROKE);
+        strokePaint.setColor(limitBreak ? LIMIT_BREAK_COLOR : STROKE_COLOR);
+        strokePaint.setStrokeWidth((limitBreak ? 5 : 3) * density);
+        strokePaint.setStrokeCap(Paint.Cap.ROUND);
+        strokePaint.setStrokeJoin(Paint.Join.ROUND);
+
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        textPaint.setTypeface(Typeface.create(Typeface.MONOSPACE, Typeface.BOLD));
+    }
+
+    /**
+     * data 格式：{ axes: [{ label, icon, value }], limitBreak?: boolean }
+     */
+    static RadarRenderer fromJson(JSONObject data, float density) throws JSONException {
+        JSONArray axes = data.getJSONArray("axes");
+        if (axes.length() < 3) {
+            throw new IllegalArgumentException("radar chart needs at least 3 axes");
+        }
+
+        String[] labels = new String[axes.length()];
+        String[] icons = new String[axes.length()];
+        float[] values = new float[axes.length()];
+        boolean overLimit = false;
+        for (int i = 0; i < axes.length(); i++) {
+            JSONObject axis = axes.getJSONObject(i);
+            labels[i] = axis.optString("label", "");
+            icons[i] = axis.optString("icon", "");
+            values[i] = (float) axis.optDouble("value", 0);
+            if (Float.isNaN(values[i])) {
+                values[i] = 0;
+            }
+            overLimit |= values[i] > 100;
+        }
+
+        boolean limitBreak = data.optBoolean("limitBreak", overLimit);
+        return new RadarRenderer(labels, icons, values, limitBreak, density);
+    }
+
+    @Override
+    public void draw(Canvas canvas, int width, int height, int highlight) {
+        float cx = width / 2f;
+        float cy = height / 2f;
+        float radius = radius(width, height);
+        int n = values.length;
+
+        // 多邊形網格
+        for (int level = 1; level <= GRID_LEVELS; level++) {
+            float r = radius * level / GRID_LEVELS;
+            buildPolygon(cx, cy, r, null);
+            canvas.drawPath(path, gridPaint);
+        }
+        for (int i = 0; i < n; i++) {
+            double angle = angle(i, n);
+            canvas.drawLine(cx, cy,
+                cx + (float) Math.cos(angle) * radius,
+                cy + (float) Math.sin(angle) * radius, gridPaint);
+        }
+
+        // 半徑刻度（沿正上方軸）
+        for (int level = 0; level <= GRID_LEVELS; level++) {
+            float r = radius * level / GRID_LEVELS;
+            String tick = String.valueOf(Math.round(domainMax * level / GRID_LEVELS));
+            canvas.drawText(tick, cx + 4 * density, cy - r, tickPaint);
+        }
+
+        // 數值區域
+        buildPolygon(cx, cy, radius, values);
+        fillPaint.setAlpha(limitBreak ? LIMIT_BREAK_FILL_ALPHA : FILL_ALPHA);
+        canvas.drawPath(path, fillPaint);
+        canvas.drawPath(path, strokePaint);
+
+        // 軸標籤
+        float labelRadius = radius + 26 * density;
+        for (int i = 0; i < n; i++) {
+            double angle = angle(i, n);
+            float x = cx + (float) Math.cos(angle) * labelRadius;
+            float y = cy + (float) Math.sin(angle) * labelRadius;
+            drawAxisLabel(canvas, i, x, y, i == highlight);
+        }
+    }
+
+    private void drawAxisLabel(Canvas canvas, int index, float x, float y, boolean highlighted) {
+        boolean overLimit = limitBreak && values[index] > 100;
+        int accent = overLimit ? LIMIT_BREAK_COLOR : BADGE_STROKE_COLOR;
+
+        badgePaint.setStyle(Paint.Style.FILL);
+        badgePaint.setColor(Color.argb(242, 255, 255, 255));
+        canvas.drawCircle(x, y, 14 * density, badgePaint);
+        badgePaint.setStyle(Paint.Style.STROKE);
+        badgePaint.setColor(highlighted ? STROKE_COLOR : accent);
+        badgePaint.setStrokeWidth((overLimit || highlighted ? 3 : 2) * density);
+        canvas.drawCircle(x, y, 14 * density, badgePaint);
+
+        textPaint.setTextSize(16 * density);
+        textPaint.setColor(overLimit ? LIMIT_BREAK_COLOR : Color.rgb(74, 85, 104));
+        canvas.drawText(icons[index], x, y - 2 * density, textPaint);
+
+        textPaint.setTextSize(13 * density);
+        textPaint.setColor(overLimit ? LIMIT_BREAK_COLOR : LABEL_COLOR);
+        canvas.drawText(labels[index], x, y + 16 * density, textPaint);
+
+        if (overLimit || highlighted) {
+            textPaint.setTextSize(11 * density);
+            textPaint.setColor(overLimit ? LIMIT_BREAK_COLOR : STROKE_COLOR);
+            canvas.drawText(String.format(Locale.US, "%.1f", values[index]),
+                x, y + 30 * density, textPaint);
+        }
+    }
+
+    @Override
+    public int hitTest(float x, float y, int width, int height) {
+        float cx = width / 2f;
+        float cy = height / 2f;
+        float radius = radius(width, height);
+        float labelRadius = radius + 26 * density;
+        float hitRadius = HIT_RADIUS_DP * density;
+        int n = values.length;
+
+        int best = NO_POINT;
+        float bestDistance = Float.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            double angle = angle(i, n);
+            float r = Math.min(values[i] / domainMax, 1f) * radius;
+            // 標籤和資料頂點都可以觸發
+            float[] candidates = {labelRadius, r};
+            for (float candidate : candidates) {
+                float px = cx + (float) Math.cos(angle) * candidate;
+                float py = cy + (float) Math.sin(angle) * candidate;
+                float distance = (float) Math.hypot(px - x, py - y);
+                if (distance < hitRadius && distance < bestDistance) {
+                    bestDistance = distance;
+                    best = i;
+                }
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public JSObject describe(int index) {
+        JSObject point = new JSObject();
+        point.put("index", index);
+        point.put("label", labels[index]);
+        point.put("value", values[index]);
+        return point;
+    }
+
+    @Override
+    public int getInputPointCount() {
+        return values.length;
+    }
+
+    @Override
+    public int getRenderedPointCount() {
+        return values.length;
+    }
+
+    private float radius(int width, int height) {
+        // 預留標籤徽章空間
+        return Math.max(0f, Math.min(width, height) / 2f - 48 * density);
+    }
+
+    /**
+     * 與 Recharts 相同：第一軸在正上方，順時針排列
+     */
+    private static double angle(int index, int count) {
+        return -Math.PI / 2 + index * 2 * Math.PI / count;
+    }
+
+    private void buildPolygon(float cx, float cy, float radius, float[] scale) {
+        path.rewind();
+        int n = labels.length;
+        for (int i = 0; i < n; i++) {
+            float r = scale == null ? radius : Math.min(scale[i] / domainMax, 1f) * radius;
+            double angle = angle(i, n);
+            float x = cx + (float) Math.cos(angle) * r;
+            float y = cy + (float) Math.sin(angle) * r;
+            if (i == 0) {
+                path.moveTo(x, y);
+            } else {
+                path.lineTo(x, y);
+            }
+        }
+        path.close();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ultimatephysique.fitness2025.chart;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Downsampler 單元測試（純 Java，不需要裝置）
+ */
+public class DownsamplerTest {
+
+    @Test
+    public void downsample_keepsAllPointsUnderThreshold() {
+        float[] values = {10f, 20f, 30f, 40f, 50f};
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, Downsampler.downsample(values, 10));
+    }
+
+    @Test
+    public void downsample_limitsPointCountAndKeepsEndpoints() {
+        for (int n : new int[] {100, 1_000, 10_000}) {
+            float[] values = series(n);
+            int[] indices = Downsampler.downsample(values, 50);
+
+            assertTrue("n=" + n, indices.length <= 50);
+            assertEquals(0, indices[0]);
+            assertEquals(n - 1, indices[indices.length - 1]);
+            assertStrictlyIncreasing(indices);
+        }
+    }
+
+    @Test
+    public void downsample_preservesSpike() {
+        float[] values = new float[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 50f;
+        }
+        values[4_321] = 100f;
+
+        int[] indices = Downsampler.downsample(values, 100);
+
+        boolean found = false;
+        for (int index : indices) {
+            found |= index == 4_321;
+        }
+        assertTrue("spike should survive min/max + LTTB", found);
+    }
+
+    @Test
+    public void minMax_keepsExtremaPerBucket() {
+        float[] values = {0f, 5f, 1f, 9f, 2f, 8f, 3f, 7f, 0f};
+        int[] indices = Downsampler.minMax(values, 2);
+
+        assertEquals(0, indices[0]);
+        assertEquals(values.length - 1, indices[indices.length - 1]);
+        assertStrictlyIncreasing(indices);
+        // 第一桶 [1, 4) 的 min=1(索引 2)、max=9(索引 3)
+        assertEquals(2, indices[1]);
+        assertEquals(3, indices[2]);
+    }
+
+    private static float[] series(int n) {
+        float[] values = new float[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = 50f + 40f * (float) Math.sin(i / 25.0) + (i % 7);
+        }
+        return values;
+    }
+
+    private static void assertStrictlyIncreasing(int[] indices) {
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue("indices must be increasing at " + i, indices[i] > indices[i - 1]);
+        }
+    }
+}
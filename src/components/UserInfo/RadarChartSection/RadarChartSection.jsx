@@ -7,6 +7,8 @@ import {
   PolarRadiusAxis,
   Radar,
 } from 'recharts';
+import useNativeChart from '../../../hooks/useNativeChart';
+import { getChartBenchmarkRenderer } from '../../../utils/nativeChart';
 import './RadarChartSection.css';
 
 const DEFAULT_SCORES = {
@@ -175,6 +177,9 @@ CustomAxisTick.propTypes = {
 
 const RadarChartSection = ({ scores, loading, t }) => {
   const radarContainerRef = useRef(null);
+  const nativeChartRef = useRef(null);
+  const [hoveredAxis, setHoveredAxis] = useState(null);
+  const [tappedAxis, setTappedAxis] = useState(null);
   const [chartDimensions, setChartDimensions] = useState({
     width: 750,
     height: 400,
@@ -317,6 +322,41 @@ const RadarChartSection = ({ scores, loading, t }) => {
   // 🔥 Limit Break: 動態漸變色 ID
   const gradientId = isLimitBreak ? 'limitBreakGradient' : 'tiffanyGradient';
 
+  // ⚡ Android：改由原生 Canvas 繪製，避免 Recharts SVG 佔用 WebView 版面計算
+  const nativeRadarData = useMemo(
+    () => ({
+      axes: radarChartData.map(item => ({
+        label: item.name,
+        icon: item.icon,
+        value: item.value,
+      })),
+      limitBreak: isLimitBreak,
+    }),
+    [radarChartData, isLimitBreak]
+  );
+  // 效能基準：?chartRenderer=svg 時強制使用 Recharts（僅開發版或手動開啟）
+  const forceRecharts = useMemo(
+    () => getChartBenchmarkRenderer() === 'svg',
+    []
+  );
+  const isNativeChart = useNativeChart(
+    nativeChartRef,
+    'radar',
+    nativeRadarData,
+    {
+      enabled: !loading && hasValidData && !forceRecharts,
+      onHover: setHoveredAxis,
+      onTap: setTappedAxis,
+    }
+  );
+
+  // 分數更新後清除選取的軸
+  useEffect(() => {
+    setHoveredAxis(null);
+    setTappedAxis(null);
+  }, [nativeRadarData]);
+  const activeAxis = hoveredAxis || tappedAxis;
+
   if (loading) {
     return (
       <div className="radar-section">
@@ -380,56 +420,81 @@ const RadarChartSection = ({ scores, loading, t }) => {
 
         {hasValidData && (
           <div className="radar-chart-container" ref={radarContainerRef}>
-            <RadarChart
-              width={chartDimensions.width}
-              height={chartDimensions.height}
-              data={radarChartData}
-            >
-              <PolarGrid
-                gridType="polygon"
-                stroke="rgba(255, 140, 0, 0.25)"
-                strokeWidth={2}
-                strokeDasharray="4 4"
-              />
-              <PolarAngleAxis
-                dataKey="name"
-                tick={
-                  <CustomAxisTick
-                    radarChartData={radarChartData}
-                    t={t}
-                    isLimitBreak={isLimitBreak}
-                    limitBreakColor={limitBreakColor}
-                  />
-                }
-                axisLine={false}
-              />
-              <PolarRadiusAxis
-                angle={90}
-                domain={[0, 100]}
-                tickCount={5}
-                tick={{
-                  fontSize: 12,
-                  fill: '#FF8C00',
-                  fontWeight: 600,
-                  fontFamily:
-                    "'JetBrains Mono', 'Courier New', 'Monaco', monospace",
-                  letterSpacing: '0.05em',
+            {isNativeChart ? (
+              <div
+                className="radar-native-chart"
+                ref={nativeChartRef}
+                style={{
+                  width: chartDimensions.width,
+                  height: chartDimensions.height,
                 }}
-                axisLine={false}
               />
-              {/* ⚡ Phase 1: Magitek Radar - Semi-transparent Blue fill with Gold stroke */}
-              <Radar
-                name={t('userInfo.yourPerformance')}
-                dataKey="value"
-                stroke={isLimitBreak ? limitBreakColor : '#FF8C00'}
-                fill="rgba(0, 191, 255, 0.4)"
-                fillOpacity={isLimitBreak ? 0.6 : 0.4}
-                strokeWidth={isLimitBreak ? 5 : 3}
-                strokeLinecap="round"
-                strokeLinejoin="round"
-                isAnimationActive={true}
-              />
-            </RadarChart>
+            ) : (
+              <RadarChart
+                width={chartDimensions.width}
+                height={chartDimensions.height}
+                data={radarChartData}
+              >
+                <PolarGrid
+                  gridType="polygon"
+                  stroke="rgba(255, 140, 0, 0.25)"
+                  strokeWidth={2}
+                  strokeDasharray="4 4"
+                />
+                <PolarAngleAxis
+                  dataKey="name"
+                  tick={
+                    <CustomAxisTick
+                      radarChartData={radarChartData}
+                      t={t}
+                      isLimitBreak={isLimitBreak}
+                      limitBreakColor={limitBreakColor}
+                    />
+                  }
+                  axisLine={false}
+                />
+                <PolarRadiusAxis
+                  angle={90}
+                  domain={[0, 100]}
+                  tickCount={5}
+                  tick={{
+                    fontSize: 12,
+                    fill: '#FF8C00',
+                    fontWeight: 600,
+                    fontFamily:
+                      "'JetBrains Mono', 'Courier New', 'Monaco', monospace",
+                    letterSpacing: '0.05em',
+                  }}
+                  axisLine={false}
+                />
+                {/* ⚡ Phase 1: Magitek Radar - Semi-transparent Blue fill with Gold stroke */}
+                <Radar
+                  name={t('userInfo.yourPerformance')}
+                  dataKey="value"
+                  stroke={isLimitBreak ? limitBreakColor : '#FF8C00'}
+                  fill="rgba(0, 191, 255, 0.4)"
+                  fillOpacity={isLimitBreak ? 0.6 : 0.4}
+                  strokeWidth={isLimitBreak ? 5 : 3}
+                  strokeLinecap="round"
+                  strokeLinejoin="round"
+                  isAnimationActive={true}
+                />
+              </RadarChart>
+            )}
+          </div>
+        )}
+
+        {/* 原生雷達圖：點擊 / 拖曳軸標籤時顯示數值（固定佔位，避免版面跳動） */}
+        {isNativeChart && (
+          <div
+            className={`radar-point-readout${
+              activeAxis ? '' : ' radar-point-readout--empty'
+            }`}
+          >
+            <span>{activeAxis?.label}</span>
+            <span className="radar-point-readout__value">
+              {activeAxis ? Number(activeAxis.value).toFixed(2) : ''}
+            </span>
           </div>
         )}
       </div>
@@ -0,0 +1,194 @@
+import { useEffect, useRef, useState } from 'react';
+import logger from '../utils/logger';
+import {
+  NativeChart,
+  findClipAncestors,
+  getChartRect,
+  isNativeChartSupported,
+} from '../utils/nativeChart';
+
+let nextChartId = 0;
+
+const boundsKey = ({ rect, clip, visible }) =>
+  [
+    rect.x,
+    rect.y,
+    rect.width,
+    rect.height,
+    clip.x,
+    clip.y,
+    clip.width,
+    clip.height,
+  ]
+    .map(value => Math.round(value * 2))
+    .join(',') + (visible ? ':1' : ':0');
+
+/**
+ * Hook：把原生圖表疊在 targetRef 預留的 DOM 矩形上
+ * - 只在捲動、視窗縮放、祖先尺寸改變與 DOM 變動時重新計算位置，
+ *   有變化才同步給原生端；頁面閒置時不佔用主執行緒
+ * - 原生 View 位於 WebView 上方，彈窗等元素蓋住圖表時（見 getChartRect）會隱藏原生 View
+ * - data 改變時只傳資料，不重建原生 View
+ * - 原生端只回傳 tap / hover 事件（onTap / onHover 收到 { index, label, value } 或 null）
+ *
+ * @returns {boolean} 是否由原生繪製；false 時呼叫端應改用 WebView 版本
+ */
+export default function useNativeChart(
+  targetRef,
+  type,
+  data,
+  { enabled = true, onTap, onHover } = {}
+) {
+  const [failed, setFailed] = useState(false);
+  const active = enabled && !failed && isNativeChartSupported();
+
+  const idRef = useRef(null);
+  const readyRef = useRef(null);
+  const sentDataRef = useRef(null);
+  const dataRef = useRef(data);
+  const handlersRef = useRef({ onTap, onHover });
+  dataRef.current = data;
+  handlersRef.current = { onTap, onHover };
+
+  if (idRef.current === null) {
+    nextChartId += 1;
+    idRef.current = `${type}-${nextChartId}`;
+  }
+
+  // 建立 / 銷毀原生 View 與位置同步
+  useEffect(() => {
+    if (!active || !targetRef.current) {
+      return undefined;
+    }
+
+    const id = idRef.current;
+    const element = targetRef.current;
+    const clipAncestors = findClipAncestors(element);
+    let disposed = false;
+    let frameId = null;
+    let stopSync = null;
+    let listenerHandle = null;
+
+    const initialBounds = getChartRect(element, clipAncestors);
+    let lastKey = boundsKey(initialBounds);
+
+    sentDataRef.current = dataRef.current;
+    readyRef.current = NativeChart.create({
+      id,
+      type,
+      data: dataRef.current,
+      ...initialBounds,
+    })
+      .then(() => true)
+      .catch(error => {
+        logger.error('NativeChart 建立失敗，改用 WebView 繪製:', error);
+        if (!disposed) {
+          setFailed(true);
+        }
+        return false;
+      });
+
+    const syncBounds = () => {
+      if (frameId !== null) {
+        cancelAnimationFrame(frameId);
+        frameId = null;
+      }
+      if (disposed) return;
+      const bounds = getChartRect(element, clipAncestors);
+      const key = boundsKey(bounds);
+      if (key !== lastKey) {
+        lastKey = key;
+        NativeChart.setBounds({ id, ...bounds }).catch(() => {});
+      }
+    };
+
+    // 尺寸 / DOM 變動可能同一幀觸發多次，合併到下一幀只算一次
+    const scheduleSync = () => {
+      if (frameId === null && !disposed) {
+        frameId = requestAnimationFrame(syncBounds);
+      }
+    };
+
+    const startSync = () => {
+      // 捲動事件不冒泡，以 capture 接收任何捲動容器；直接同步以減少原生 View 落後
+      const scrollOptions = { capture: true, passive: true };
+      window.addEventListener('scroll', syncBounds, scrollOptions);
+      window.addEventListener('resize', scheduleSync);
+
+      // 祖先尺寸改變代表上方版面移動（例如歷史表格換頁）
+      const resizeObserver = new ResizeObserver(scheduleSync);
+      for (let node = element; node; node = node.parentElement) {
+        resizeObserver.observe(node);
+      }
+
+      // 彈窗以 portal 掛在 body 下，開關時重新檢查是否被遮住
+      const mutationObserver = new MutationObserver(scheduleSync);
+      mutationObserver.observe(document.body, {
+        childList: true,
+        subtree: true,
+        attributes: true,
+        attributeFilter: ['class', 'style', 'hidden'],
+      });
+      scheduleSync();
+
+      return () => {
+        window.removeEventListener('scroll', syncBounds, scrollOptions);
+        window.removeEventListener('resize', scheduleSync);
+        resizeObserver.disconnect();
+        mutationObserver.disconnect();
+      };
+    };
+
+    readyRef.current.then(created => {
+      if (created && !disposed) {
+        // 效能基準以此找到頁面上的原生圖表（measureChart）
+        element.dataset.nativeChartId = id;
+        stopSync = startSync();
+      }
+    });
+
+    const notifyHandler = event => {
+      if (event.id !== id) return;
+      const handler =
+        event.type === 'tap'
+          ? handlersRef.current.onTap
+          : handlersRef.current.onHover;
+      handler?.(event.point);
+    };
+
+    NativeChart.addListener('chartEvent', notifyHandler).then(handle => {
+      if (disposed) {
+        handle.remove();
+      } else {
+        listenerHandle = handle;
+      }
+    });
+
+    return () => {
+      disposed = true;
+      if (frameId !== null) {
+        cancelAnimationFrame(frameId);
+      }
+      stopSync?.();
+      delete element.dataset.nativeChartId;
+      listenerHandle?.remove();
+      readyRef.current = null;
+      NativeChart.destroy({ id }).catch(() => {});
+    };
+  }, [active, type, targetRef]);
+
+  // 資料更新
+  useEffect(() => {
+    const ready = readyRef.current;
+    if (!active || !ready || sentDataRef.current === data) {
+      return;
+    }
+    sentDataRef.current = data;
+    const id = idRef.current;
+    ready
+      .then(created => created && NativeChart.update({ id, type, data }))
+      .catch(error => logger.debug('NativeChart 更新略過:', error));
+  }, [active, type, data]);
+
+  return active;
+}
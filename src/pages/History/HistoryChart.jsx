@@ -1,16 +1,56 @@
-import React from 'react';
+import React, { useEffect, useMemo, useRef, useState } from 'react';
 import { useTranslation } from 'react-i18next';
+import useNativeChart from '../../hooks/useNativeChart';
 
-export default function HistoryChart({ chartData, selectedChartData, setSelectedChartData }) {
+export default function HistoryChart({
+  chartData,
+  selectedChartData,
+  setSelectedChartData,
+  allowNativeChart = true,
+}) {
   const { t } = useTranslation();
+  const nativeChartRef = useRef(null);
+  const [hoveredPoint, setHoveredPoint] = useState(null);
+  const [tappedPoint, setTappedPoint] = useState(null);
+
+  const selectedDataset = chartData?.datasets.find(
+    dataset => dataset.key === selectedChartData
+  );
+
+  // ⚡ Android：由原生 Canvas 繪製（含降採樣），WebView 只保留預留區塊
+  const nativeHistoryData = useMemo(
+    () =>
+      selectedDataset
+        ? {
+            labels: chartData.labels,
+            values: selectedDataset.data,
+            color: selectedDataset.color,
+          }
+        : null,
+    [chartData, selectedDataset]
+  );
+  const isNativeChart = useNativeChart(
+    nativeChartRef,
+    'history',
+    nativeHistoryData,
+    {
+      enabled: allowNativeChart && !!nativeHistoryData,
+      onHover: setHoveredPoint,
+      onTap: setTappedPoint,
+    }
+  );
+
+  // 切換資料集時清除選取的點
+  useEffect(() => {
+    setHoveredPoint(null);
+    setTappedPoint(null);
+  }, [nativeHistoryData]);
+  const activePoint = hoveredPoint || tappedPoint;
 
   if (!chartData) return null;
 
   const axisFontSize = 18;
   const axisFontWeight = '600';
-  const selectedDataset = chartData.datasets.find(
-    dataset => dataset.key === selectedChartData
-  );
 
   return (
     <div className="chart-container">
@@ -32,94 +72,115 @@ export default function HistoryChart({ chartData, selectedChartData, setSelected
         </div>
       </div>
       <div className="chart-wrapper">
-        <svg className="chart" viewBox={`0 0 800 800`}>
-          {[...Array(6)].map((_, i) => {
-            const value = i * 20;
-            const y = 720 - (value * 480) / 100;
-            return (
-              <line
-                key={`grid-y-${i}`}
-                x1="50"
-                y1={y}
-                x2="750"
-                y2={y}
-                stroke="#dee2e6"
-                strokeWidth="1"
-              />
-            );
-          })}
+        {isNativeChart ? (
+          <div className="chart chart--native" ref={nativeChartRef} />
+        ) : (
+          <svg className="chart" viewBox={`0 0 800 800`}>
+            {[...Array(6)].map((_, i) => {
+              const value = i * 20;
+              const y = 720 - (value * 480) / 100;
+              return (
+                <line
+                  key={`grid-y-${i}`}
+                  x1="50"
+                  y1={y}
+                  x2="750"
+                  y2={y}
+                  stroke="#dee2e6"
+                  strokeWidth="1"
+                />
+              );
+            })}
 
-          {selectedDataset && (
-            <g key={selectedDataset.label}>
-              <polyline
-                points={selectedDataset.data
-                  .map((value, index) => {
-                    const x =
-                      50 + (index * 700) / (chartData.labels.length - 1);
-                    const y = 720 - (value * 480) / 100;
-                    return `${x},${y}`;
-                  })
-                  .join(' ')}
-                fill="none"
-                stroke={selectedDataset.color}
-                strokeWidth="4"
-                strokeLinecap="round"
-                strokeLinejoin="round"
-              />
-              {selectedDataset.data.map((value, index) => {
-                const x = 50 + (index * 700) / (chartData.labels.length - 1);
-                const y = 720 - (value * 480) / 100;
-                return (
-                  <circle
-                    key={`point-${index}`}
-                    cx={x}
-                    cy={y}
-                    r="5"
-                    fill={selectedDataset.color}
-                    stroke="white"
-                    strokeWidth="2"
-                  />
-                );
-              })}
-            </g>
-          )}
+            {selectedDataset && (
+              <g key={selectedDataset.label}>
+                <polyline
+                  points={selectedDataset.data
+                    .map((value, index) => {
+                      const x =
+                        50 + (index * 700) / (chartData.labels.length - 1);
+                      const y = 720 - (value * 480) / 100;
+                      return `${x},${y}`;
+                    })
+                    .join(' ')}
+                  fill="none"
+                  stroke={selectedDataset.color}
+                  strokeWidth="4"
+                  strokeLinecap="round"
+                  strokeLinejoin="round"
+                />
+                {selectedDataset.data.map((value, index) => {
+                  const x = 50 + (index * 700) / (chartData.labels.length - 1);
+                  const y = 720 - (value * 480) / 100;
+                  return (
+                    <circle
+                      key={`point-${index}`}
+                      cx={x}
+                      cy={y}
+                      r="5"
+                      fill={selectedDataset.color}
+                      stroke="white"
+                      strokeWidth="2"
+                    />
+                  );
+                })}
+              </g>
+            )}
 
-          {chartData.labels.map((label, index) => {
-            const x = 50 + (index * 700) / (chartData.labels.length - 1);
-            return (
-              <text
-                key={`label-${index}`}
-                x={x}
-                y="780"
-                textAnchor="middle"
-                fontSize={axisFontSize}
-                fontWeight={axisFontWeight}
-                fill="#495057"
-              >
-                {label}
-              </text>
-            );
-          })}
+            {chartData.labels.map((label, index) => {
+              const x = 50 + (index * 700) / (chartData.labels.length - 1);
+              return (
+                <text
+                  key={`label-${index}`}
+                  x={x}
+                  y="780"
+                  textAnchor="middle"
+                  fontSize={axisFontSize}
+                  fontWeight={axisFontWeight}
+                  fill="#495057"
+                >
+                  {label}
+                </text>
+              );
+            })}
 
-          {[...Array(6)].map((_, i) => {
-            const value = i * 20;
-            const y = 720 - (value * 480) / 100;
-            return (
-              <text
-                key={`y-label-${i}`}
-                x="30"
-                y={y + 6}
-                textAnchor="end"
-                fontSize={axisFontSize}
-                fontWeight={axisFontWeight}
-                fill="#495057"
-              >
-                {value}
-              </text>
-            );
-          })}
-        </svg>
+            {[...Array(6)].map((_, i) => {
+              const value = i * 20;
+              const y = 720 - (value * 480) / 100;
+              return (
+                <text
+                  key={`y-label-${i}`}
+                  x="30"
+                  y={y + 6}
+                  textAnchor="end"
+                  fontSize={axisFontSize}
+                  fontWeight={axisFontWeight}
+                  fill="#495057"
+                >
+                  {value}
+                </text>
+              );
+            })}
+          </svg>
+        )}
       </div>
+      {isNativeChart && (
+        <div
+          className={`chart-point-readout${
+            activePoint ? '' : ' chart-point-readout--empty'
+          }`}
+        >
+          <span className="chart-point-readout__label">
+            {activePoint?.label}
+          </span>
+          <span
+            className="chart-point-readout__value"
+            style={{ color: selectedDataset?.color }}
+          >
+            {activePoint ? Number(activePoint.value).toFixed(2) : ''}
+          </span>
+        </div>
+      )}
     </div>
   );
 }
@@ -1,7 +1,12 @@
-import React, { useEffect } from 'react';
+import React, { useEffect, useMemo, useState } from 'react';
 import './HistoryPage.css';
 import { useTranslation } from 'react-i18next';
 import logger from '../utils/logger';
+import {
+  buildBenchmarkChartData,
+  getChartBenchmarkConfig,
+  getChartBenchmarkRenderer,
+} from '../utils/nativeChart';
 import { useHistoryLogic } from '../hooks/useHistoryLogic';
 import HistoryTable from './History/HistoryTable';
 import HistoryChart from './History/HistoryChart';
@@ -34,6 +39,20 @@ function History() {
     hasLoggedRef,
   } = useHistoryLogic();
 
+  // 效能基準：/history?chartBench=1000&chartRenderer=svg|native（僅開發版或手動開啟）
+  // 實際歷史圖表只取最近 6 筆，需以合成資料比較 SVG 與原生繪製
+  const chartBenchmark = useMemo(() => getChartBenchmarkConfig(), []);
+  const benchmarkChartData = useMemo(
+    () =>
+      chartBenchmark ? buildBenchmarkChartData(chartBenchmark.size) : null,
+    [chartBenchmark]
+  );
+  const [benchmarkSelection, setBenchmarkSelection] = useState('total');
+  const allowNativeChart = useMemo(
+    () => getChartBenchmarkRenderer() !== 'svg',
+    []
+  );
+
   useEffect(() => {
     if (hasLoggedRef.current) return;
     logger.debug('History.js - userData loaded');
@@ -174,11 +193,21 @@ function History() {
         )}
       </div>
 
-      {sortedHistory.length > 0 && (
+      {benchmarkChartData && (
+        <HistoryChart
+          chartData={benchmarkChartData}
+          selectedChartData={benchmarkSelection}
+          setSelectedChartData={setBenchmarkSelection}
+          allowNativeChart={allowNativeChart}
+        />
+      )}
+
+      {!benchmarkChartData && sortedHistory.length > 0 && (
         <HistoryChart
           chartData={chartData}
           selectedChartData={selectedChartData}
           setSelectedChartData={setSelectedChartData}
+          allowNativeChart={allowNativeChart}
         />
       )}
     </div>
@@ -0,0 +1,329 @@
+import { Capacitor, registerPlugin } from '@capacitor/core';
+import logger from './logger';
+
+/**
+ * ✅ 原生圖表插件（Android：NativeChartPlugin.java）
+ * 在 WebView 上方用 Canvas 繪製雷達圖 / 歷史折線圖，避免 SVG 產生大量 DOM 節點
+ */
+export const NativeChart = registerPlugin('NativeChart');
+
+export const isNativeChartSupported = () =>
+  Capacitor.isNativePlatform() &&
+  Capacitor.getPlatform() === 'android' &&
+  Capacitor.isPluginAvailable('NativeChart');
+
+// 固定在頂部 / 底部、應蓋住圖表的介面（HUD、底部導覽列、固定廣告）
+const TOP_CHROME_SELECTORS = ['#layer-hud-status > *'];
+const BOTTOM_CHROME_SELECTORS = [
+  "nav[style*='position: fixed']",
+  '.ad-banner--fixed',
+];
+const FRAME_SELECTOR = '#layer-terminal-frame';
+
+const isShown = element => {
+  const style = getComputedStyle(element);
+  return style.display !== 'none' && style.visibility !== 'hidden';
+};
+
+/**
+ * 計算圖表可見區域：視窗扣掉固定 UI 與外框，再與會裁切內容的捲動容器取交集
+ */
+const getVisibleArea = (element, clipAncestors) => {
+  let top = 0;
+  let left = 0;
+  let right = window.innerWidth || document.documentElement.clientWidth;
+  let bottom = window.innerHeight || document.documentElement.clientHeight;
+
+  const frame = document.querySelector(FRAME_SELECTOR);
+  if (frame && isShown(frame)) {
+    const style = getComputedStyle(frame);
+    top += parseFloat(style.borderTopWidth) || 0;
+    left += parseFloat(style.borderLeftWidth) || 0;
+    right -= parseFloat(style.borderRightWidth) || 0;
+    bottom -= parseFloat(style.borderBottomWidth) || 0;
+  }
+
+  TOP_CHROME_SELECTORS.forEach(selector => {
+    document.querySelectorAll(selector).forEach(node => {
+      if (!isShown(node)) return;
+      const rect = node.getBoundingClientRect();
+      if (rect.height > 0 && rect.top <= top) {
+        top = Math.max(top, rect.bottom);
+      }
+    });
+  });
+
+  BOTTOM_CHROME_SELECTORS.forEach(selector => {
+    document.querySelectorAll(selector).forEach(node => {
+      if (node.contains(element) || !isShown(node)) return;
+      const rect = node.getBoundingClientRect();
+      if (rect.height > 0 && rect.bottom >= bottom) {
+        bottom = Math.min(bottom, rect.top);
+      }
+    });
+  });
+
+  clipAncestors.forEach(ancestor => {
+    const rect = ancestor.getBoundingClientRect();
+    top = Math.max(top, rect.top);
+    left = Math.max(left, rect.left);
+    right = Math.min(right, rect.right);
+    bottom = Math.min(bottom, rect.bottom);
+  });
+
+  return { top, left, right, bottom };
+};
+
+/**
+ * 偵測彈窗等蓋在圖表上的元素：在 clip 的中心與四角做 hit test，
+ * 命中圖表以外的元素（且不是圖表的祖先，避免 pointer-events: none 的容器誤判）即視為被遮住。
+ * 所有 portal 彈窗都會被偵測到，不需要各自通知
+ */
+const isOccluded = (element, clip) => {
+  if (clip.width <= 0 || clip.height <= 0) return false;
+  // 往內縮 1px，避免邊界取整數時落到相鄰元素
+  const left = clip.x + Math.min(1, clip.width / 2);
+  const right = clip.x + clip.width - Math.min(1, clip.width / 2);
+  const top = clip.y + Math.min(1, clip.height / 2);
+  const bottom = clip.y + clip.height - Math.min(1, clip.height / 2);
+  const points = [
+    [(left + right) / 2, (top + bottom) / 2],
+    [left, top],
+    [right, top],
+    [left, bottom],
+    [right, bottom],
+  ];
+  return points.some(([x, y]) => {
+    const hit = document.elementFromPoint(x, y);
+    return hit && !element.contains(hit) && !hit.contains(element);
+  });
+};
+
+/**
+ * 找出會裁切 element 的祖先（overflow 非 visible），建立圖表時計算一次
+ */
+export const findClipAncestors = element => {
+  const ancestors = [];
+  let node = element.parentElement;
+  while (node && node !== document.body && node !== document.documentElement) {
+    const style = getComputedStyle(node);
+    if (style.overflowX !== 'visible' || style.overflowY !== 'visible') {
+      ancestors.push(node);
+    }
+    node = node.parentElement;
+  }
+  return ancestors;
+};
+
+/**
+ * 將 DOM 元素位置轉為插件使用的矩形（CSS 像素，相對於視窗）
+ * - rect：元素的內容區（扣掉 padding 與 border），即原生 View 的位置
+ * - clip：rect 中未被固定 UI / 捲動容器遮住的部分，原生端以 setClipBounds 套用
+ * - visible：clip 有面積且沒有彈窗蓋在上方
+ */
+export const getChartRect = (element, clipAncestors = []) => {
+  const box = element.getBoundingClientRect();
+  const style = getComputedStyle(element);
+  const insetLeft =
+    (parseFloat(style.paddingLeft) || 0) +
+    (parseFloat(style.borderLeftWidth) || 0);
+  const insetRight =
+    (parseFloat(style.paddingRight) || 0) +
+    (parseFloat(style.borderRightWidth) || 0);
+  const insetTop =
+    (parseFloat(style.paddingTop) || 0) +
+    (parseFloat(style.borderTopWidth) || 0);
+  const insetBottom =
+    (parseFloat(style.paddingBottom) || 0) +
+    (parseFloat(style.borderBottomWidth) || 0);
+
+  const rect = {
+    x: box.left + insetLeft,
+    y: box.top + insetTop,
+    width: Math.max(0, box.width - insetLeft - insetRight),
+    height: Math.max(0, box.height - insetTop - insetBottom),
+  };
+
+  const area = getVisibleArea(element, clipAncestors);
+  const clipLeft = Math.max(rect.x, area.left);
+  const clipTop = Math.max(rect.y, area.top);
+  const clipRight = Math.min(rect.x + rect.width, area.right);
+  const clipBottom = Math.min(rect.y + rect.height, area.bottom);
+  const clip = {
+    x: clipLeft,
+    y: clipTop,
+    width: Math.max(0, clipRight - clipLeft),
+    height: Math.max(0, clipBottom - clipTop),
+  };
+
+  return {
+    rect,
+    clip,
+    visible: clip.width > 0 && clip.height > 0 && !isOccluded(element, clip),
+  };
+};
+
+/* ============================================================
+   效能基準（僅限開發版或手動開啟）
+   ============================================================ */
+
+const BENCHMARK_STORAGE_KEY = 'nativeChartBenchmark';
+
+/**
+ * 開發版預設啟用；打包後的 App 需在 chrome://inspect 主控台執行
+ * localStorage.setItem('nativeChartBenchmark', '1') 後重新整理
+ */
+export const isChartBenchmarkEnabled = () => {
+  if (import.meta.env.DEV) return true;
+  try {
+    return localStorage.getItem(BENCHMARK_STORAGE_KEY) === '1';
+  } catch {
+    return false;
+  }
+};
+
+const getBenchmarkParams = () =>
+  isChartBenchmarkEnabled()
+    ? new URLSearchParams(window.location.search)
+    : null;
+
+/**
+ * 讀取 ?chartRenderer=svg|native；svg 時雷達圖改用 Recharts、歷史圖表改用 SVG
+ * @returns {'svg' | 'native' | null}
+ */
+export const getChartBenchmarkRenderer = () => {
+  const renderer = getBenchmarkParams()?.get('chartRenderer');
+  return renderer === 'svg' || renderer === 'native' ? renderer : null;
+};
+
+/**
+ * 讀取 /history?chartBench=1000 參數（合成資料筆數）
+ * @returns {{ size: number } | null}
+ */
+export const getChartBenchmarkConfig = () => {
+  const size = parseInt(getBenchmarkParams()?.get('chartBench'), 10);
+  if (!size || size <= 0) return null;
+  return { size };
+};
+
+/**
+ * 與 useHistoryLogic 的 chartData 相同格式的合成資料，
+ * 讓 HistoryChart 的 SVG 與原生兩條路徑使用同一組資料
+ */
+export const buildBenchmarkChartData = size => {
+  const values = [];
+  const labels = [];
+  for (let i = 0; i < size; i++) {
+    values.push(
+      Number((50 + 35 * Math.sin(i / 30) + (i % 11)).toFixed(2))
+    );
+    labels.push(`#${i + 1}`);
+  }
+  return {
+    labels,
+    datasets: [
+      {
+        label: `Benchmark (${size})`,
+        data: values,
+        color: '#28a745',
+        key: 'total',
+      },
+    ],
+  };
+};
+
+const waitForFrames = (count = 2) =>
+  new Promise(resolve => {
+    const step = remaining => {
+      if (remaining <= 0) {
+        resolve();
+        return;
+      }
+      requestAnimationFrame(() => step(remaining - 1));
+    };
+    step(count);
+  });
+
+const summarizeFrames = durations => {
+  if (durations.length === 0) {
+    return { avgFrameMs: 0, p95FrameMs: 0, maxFrameMs: 0 };
+  }
+  const sorted = [...durations].sort((a, b) => a - b);
+  const sum = sorted.reduce((total, value) => total + value, 0);
+  return {
+    avgFrameMs: sum / sorted.length,
+    p95FrameMs: sorted[Math.ceil(sorted.length * 0.95) - 1],
+    maxFrameMs: sorted[sorted.length - 1],
+  };
+};
+
+/**
+ * 量測頁面上既有的圖表（SVG / Recharts 與原生模式使用同一流程）：
+ * 1. 來回捲動 frames 幀，記錄 requestAnimationFrame 間隔（WebView 主執行緒負擔）、
+ *    圖表區 DOM 節點數與 JS heap（performance.memory，僅 Chromium）
+ * 2. 原生模式再對同一個原生圖表（useNativeChart 建立的 View）連續重繪 frames 幀，
+ *    回傳渲染執行緒的穩定繪製耗時與 App 行程記憶體
+ * 注意：javaHeapUsedKb / nativeHeapUsedKb 是 App 行程，WebView 的 renderer 在獨立行程，
+ * 不能直接與 jsHeapUsedKb 相比。
+ */
+export const measureChart = async ({
+  frames = 120,
+  selector = '.chart-wrapper',
+} = {}) => {
+  const element = document.querySelector(selector);
+  if (!element) {
+    logger.warn('找不到圖表元素，略過量測:', selector);
+    return null;
+  }
+
+  const scroller =
+    findClipAncestors(element).find(
+      node => node.scrollHeight > node.clientHeight
+    ) || document.scrollingElement;
+  const startScrollTop = scroller.scrollTop;
+  element.scrollIntoView({ block: 'center' });
+  await waitForFrames(2);
+
+  const durations = [];
+  let last = performance.now();
+  for (let i = 0; i < frames; i++) {
+    scroller.scrollTop += i % 40 < 20 ? 4 : -4;
+    await waitForFrames(1);
+    const now = performance.now();
+    durations.push(now - last);
+    last = now;
+  }
+  scroller.scrollTop = startScrollTop;
+  await waitForFrames(2);
+
+  const nativeElement = element.querySelector('[data-native-chart-id]');
+  const native =
+    nativeElement && isNativeChartSupported()
+      ? await NativeChart.measureFrames({
+          id: nativeElement.dataset.nativeChartId,
+          frames,
+        }).catch(error => {
+          logger.warn('原生圖表量測失敗:', error);
+          return null;
+        })
+      : null;
+
+  const result = {
+    renderer: nativeElement ? 'native' : 'svg',
+    webView: {
+      ...summarizeFrames(durations),
+      domNodes: element.querySelectorAll('*').length,
+      jsHeapUsedKb: performance.memory
+        ? Math.round(performance.memory.usedJSHeapSize / 1024)
+        : null,
+    },
+    native,
+  };
+  logger.info('📊 Chart benchmark:', selector, result);
+  return result;
+};
+
+// 打包後的 App 無法 import 原始碼模組，改由全域物件呼叫
+if (typeof window !== 'undefined' && isChartBenchmarkEnabled()) {
+  window.__chartBenchmark = { measure: measureChart };
+}